@@ -31,7 +31,7 @@ public class IntegerExpressionParser {
         ROOT, SUM, PRIMARY, NUMBER, WHITESPACE,
     };
 
-    private static Parser<IntegerGrammar> parser = makeParser();
+    private static final Parser<IntegerGrammar> parser = makeParser();
     
     /**
      * Compile the grammar into a parser.